@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+#
+# Measures startup time and time-to-first-request for each startup variant.
+#
+# Usage: scripts/measure-startup.sh [jvm|aot|cds|native ...]
+#
+# Run `gradle startupBuilds` first. Each variant is started, the reported Spring startup
+# time is read from the log and /graphql is polled until the first query succeeds.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8080}"
+JAR="$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)"
+EXTRACTED_DIR="build/extracted"
+NATIVE_IMAGE="build/native/nativeCompile/book-management"
+QUERY='{"query":"{ findAllBooks { id } }"}'
+
+now_ms() {
+    date +%s%3N
+}
+
+# Each branch execs the launcher, so the PID of the background job is the server itself
+start_variant() {
+    local variant="$1"
+    case "$variant" in
+        jvm)
+            exec java -jar "$JAR" --server.port="$PORT"
+            ;;
+        aot)
+            exec java -Dspring.aot.enabled=true -jar "$JAR" --server.port="$PORT"
+            ;;
+        cds)
+            cd "$EXTRACTED_DIR"
+            exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+                -jar "$(basename "$JAR")" --server.port="$PORT"
+            ;;
+        native)
+            exec "$NATIVE_IMAGE" --server.port="$PORT"
+            ;;
+        *)
+            echo "Unknown variant: $variant" >&2
+            return 1
+            ;;
+    esac
+}
+
+port_in_use() {
+    curl -s -o /dev/null "http://localhost:${PORT}/"
+}
+
+wait_for_port_release() {
+    local attempts=0
+    while port_in_use; do
+        attempts=$((attempts + 1))
+        if [ "$attempts" -ge 500 ]; then
+            echo "Port $PORT is still in use" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+}
+
+measure() {
+    local variant="$1"
+    local log
+    log="$(mktemp)"
+
+    if port_in_use; then
+        echo "Port $PORT is already in use, stop the running server first" >&2
+        return 1
+    fi
+
+    local started
+    started="$(now_ms)"
+    start_variant "$variant" >"$log" 2>&1 &
+    local pid=$!
+
+    until curl -sf -o /dev/null -H 'Content-Type: application/json' -d "$QUERY" \
+            "http://localhost:${PORT}/graphql"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$variant: process exited before serving a request, see $log" >&2
+            return 1
+        fi
+        sleep 0.01
+    done
+    local first_request
+    first_request="$(now_ms)"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    wait_for_port_release
+
+    local startup
+    startup="$(grep -o 'Started BookManagementApplication in [0-9.]* seconds' "$log" \
+        | grep -o '[0-9.]*' | head -n 1)"
+    printf '%-8s startup: %ss  time-to-first-request: %sms\n' \
+        "$variant" "${startup:-?}" "$((first_request - started))"
+    rm -f "$log"
+}
+
+variants=("$@")
+if [ ${#variants[@]} -eq 0 ]; then
+    variants=(jvm aot cds native)
+fi
+
+for variant in "${variants[@]}"; do
+    measure "$variant"
+done
@@ -2,8 +2,12 @@ package com.acme.bookmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.acme.bookmanagement.config.BookManagementRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(BookManagementRuntimeHints.class)
 public class BookManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,34 @@
+package com.acme.bookmanagement.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.acme.bookmanagement.controller.BookController;
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+
+/**
+ * Reflection and resource hints needed by the AOT-processed and native image builds.
+ * Hibernate and the GraphQL data fetchers reach {@link Book}, {@link Author} and
+ * {@link BookController} reflectively, and the schema is loaded from the classpath at startup.
+ * Keyset pagination cursors name the Java types of their sort keys, which are loaded by name
+ * when a cursor is decoded.
+ */
+public class BookManagementRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(Book.class, MemberCategory.values())
+                .registerType(Book.ReadingProgress.class, MemberCategory.values())
+                .registerType(Author.class, MemberCategory.values())
+                .registerType(BookController.class,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(TypeReference.of("java.util.Collections$UnmodifiableMap"))
+                .registerType(Long.class);
+        hints.resources().registerPattern("graphql/*.graphqls");
+    }
+}
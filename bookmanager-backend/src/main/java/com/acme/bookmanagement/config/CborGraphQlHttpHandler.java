@@ -0,0 +1,91 @@
+package com.acme.bookmanagement.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.MediaType;
+import org.springframework.util.AlternativeJdkIdGenerator;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import jakarta.servlet.ServletException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves GraphQL over HTTP requests that ask for {@code application/cbor} responses.
+ * The request body may be JSON or CBOR; the result map is handed to the CBOR message
+ * converter, which writes it straight to the response output stream.
+ */
+public class CborGraphQlHttpHandler {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebGraphQlHandler graphQlHandler;
+
+    private final IdGenerator idGenerator = new AlternativeJdkIdGenerator();
+
+    public CborGraphQlHttpHandler(WebGraphQlHandler graphQlHandler) {
+        this.graphQlHandler = graphQlHandler;
+    }
+
+    public ServerResponse handleRequest(ServerRequest serverRequest) throws ServletException, IOException {
+        WebGraphQlRequest graphQlRequest = new WebGraphQlRequest(
+                serverRequest.uri(),
+                serverRequest.headers().asHttpHeaders(),
+                cookies(serverRequest),
+                serverRequest.remoteAddress().orElse(null),
+                serverRequest.attributes(),
+                readBody(serverRequest),
+                idGenerator.generateId().toString(),
+                LocaleContextHolder.getLocale());
+
+        Mono<ServerResponse> responseMono = graphQlHandler.handleRequest(graphQlRequest)
+                .map(response -> ServerResponse.ok()
+                        .headers(headers -> headers.putAll(response.getResponseHeaders()))
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .body(response.toMap()));
+
+        return ServerResponse.async(responseMono);
+    }
+
+    /**
+     * Whether the client explicitly listed {@code application/cbor} in its {@code Accept}
+     * header with a non-zero quality that is not lower than any JSON type it accepts.
+     * Wildcards do not match, so existing JSON clients are left untouched.
+     */
+    public static boolean acceptsCbor(ServerRequest serverRequest) {
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        for (MediaType mediaType : serverRequest.headers().accept()) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                cborQuality = Math.max(cborQuality, mediaType.getQualityValue());
+            }
+            else if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)
+                    || mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_GRAPHQL_RESPONSE)) {
+                jsonQuality = Math.max(jsonQuality, mediaType.getQualityValue());
+            }
+        }
+        return cborQuality > 0 && cborQuality >= jsonQuality;
+    }
+
+    private static Map<String, Object> readBody(ServerRequest serverRequest) throws ServletException, IOException {
+        return serverRequest.body(MAP_TYPE);
+    }
+
+    private static MultiValueMap<String, HttpCookie> cookies(ServerRequest serverRequest) {
+        MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+        serverRequest.cookies().forEach((name, values) -> values
+                .forEach(cookie -> cookies.add(name, new HttpCookie(name, cookie.getValue()))));
+        return cookies;
+    }
+}
@@ -0,0 +1,75 @@
+package com.acme.bookmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.graphql.GraphQlProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+
+/**
+ * Content negotiation for the GraphQL endpoint. Clients that send
+ * {@code Accept: application/cbor} get a binary response; everyone else keeps the
+ * default JSON handler. Either way, responses larger than
+ * {@code book-management.compression.min-response-size} are gzip-compressed for clients
+ * that accept it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GraphQlEncodingConfiguration {
+
+    /**
+     * Ordered ahead of the auto-configured GraphQL router function so CBOR requests
+     * are matched first.
+     */
+    @Bean
+    @Order(-1)
+    public RouterFunction<ServerResponse> cborGraphQlRouterFunction(WebGraphQlHandler webGraphQlHandler,
+            GraphQlProperties properties) {
+        CborGraphQlHttpHandler handler = new CborGraphQlHttpHandler(webGraphQlHandler);
+        return RouterFunctions.route()
+                .POST(properties.getPath(), CborGraphQlHttpHandler::acceptsCbor, handler::handleRequest)
+                .build();
+    }
+
+    @Bean
+    public FilterRegistrationBean<GzipResponseFilter> gzipResponseFilter(GraphQlProperties properties,
+            @Value("${book-management.compression.min-response-size}") DataSize minResponseSize,
+            @Value("${book-management.compression.mime-types}") String mimeTypes) {
+        GzipResponseFilter filter = new GzipResponseFilter((int) minResponseSize.toBytes(),
+                MediaType.parseMediaTypes(mimeTypes));
+        FilterRegistrationBean<GzipResponseFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(properties.getPath());
+        return registration;
+    }
+
+    /**
+     * Replaces the default CBOR converter with one that uses string references, so field
+     * names and enum values such as {@code WANT_TO_READ} are written once per response
+     * and referenced by index afterwards.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(cborObjectMapper());
+    }
+
+    public static ObjectMapper cborObjectMapper() {
+        CBORFactory factory = CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build();
+        return Jackson2ObjectMapperBuilder.cbor().factory(factory).build();
+    }
+}
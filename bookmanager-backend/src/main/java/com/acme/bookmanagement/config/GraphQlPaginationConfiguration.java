@@ -0,0 +1,61 @@
+package com.acme.bookmanagement.config;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.graphql.data.pagination.CursorEncoder;
+import org.springframework.graphql.data.pagination.CursorStrategy;
+import org.springframework.graphql.data.pagination.EncodingCursorStrategy;
+import org.springframework.graphql.data.query.JsonKeysetCursorStrategy;
+import org.springframework.graphql.data.query.ScrollPositionCursorStrategy;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+
+/**
+ * Cursors for paginated queries. Keyset cursors are JSON maps of the sort keys, written
+ * with their Java types so they can be restored. Spring GraphQL's default type validator
+ * only admits date and time values, which rejects the {@code Long} id that books by an
+ * author are ordered by, so this strategy also admits {@code Long}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class GraphQlPaginationConfiguration {
+
+    /**
+     * Replaces the auto-configured cursor strategy, which is only created when no other
+     * {@code EncodingCursorStrategy<ScrollPosition>} bean exists.
+     */
+    @Bean
+    public EncodingCursorStrategy<ScrollPosition> cursorStrategy() {
+        JsonKeysetCursorStrategy keysetCursorStrategy = new JsonKeysetCursorStrategy(keysetCodecConfigurer());
+        return CursorStrategy.withEncoder(new ScrollPositionCursorStrategy(keysetCursorStrategy),
+                CursorEncoder.base64());
+    }
+
+    private static CodecConfigurer keysetCodecConfigurer() {
+        PolymorphicTypeValidator validator = BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Map.class)
+                .allowIfSubType("java.time.")
+                .allowIfSubType(Calendar.class)
+                .allowIfSubType(Date.class)
+                .allowIfSubType(Long.class)
+                .build();
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        mapper.activateDefaultTyping(validator, ObjectMapper.DefaultTyping.NON_FINAL);
+
+        CodecConfigurer configurer = ServerCodecConfigurer.create();
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+        return configurer;
+    }
+}
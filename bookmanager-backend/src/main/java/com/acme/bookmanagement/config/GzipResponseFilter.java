@@ -0,0 +1,251 @@
+package com.acme.bookmanagement.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Gzip-compresses responses once they grow past a size threshold. The first
+ * {@code minResponseSize} bytes are buffered; a response that completes within them is sent
+ * as is with a {@code Content-Length}, a larger one switches to gzip and streams the rest.
+ * Tomcat's own compression cannot do this for streamed responses, because it only applies
+ * its threshold when the content length is known up front.
+ */
+public class GzipResponseFilter extends OncePerRequestFilter {
+
+    private final int minResponseSize;
+
+    private final Collection<MediaType> mimeTypes;
+
+    public GzipResponseFilter(int minResponseSize, Collection<MediaType> mimeTypes) {
+        this.minResponseSize = minResponseSize;
+        this.mimeTypes = mimeTypes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        GzipResponseWrapper wrapper = WebUtils.getNativeResponse(response, GzipResponseWrapper.class);
+        if (wrapper == null) {
+            wrapper = new GzipResponseWrapper(response);
+        }
+        filterChain.doFilter(request, wrapper);
+        if (!isAsyncStarted(request)) {
+            wrapper.finish();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            String[] parts = StringUtils.tokenizeToStringArray(coding, ";");
+            if (parts.length > 0 && parts[0].equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return mimeTypes.stream().anyMatch(mimeType -> mimeType.equalsTypeAndSubtype(mediaType));
+    }
+
+    private class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+        private ThresholdOutputStream outputStream;
+
+        private PrintWriter writer;
+
+        GzipResponseWrapper(HttpServletResponse response) {
+            super(response);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream((HttpServletResponse) getResponse());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        // The content length is only known once the compression decision has been made
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        // Buffered output is discarded here; once streaming has started the response may already be committed
+        @Override
+        public void resetBuffer() {
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+            writer = null;
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+            outputStream = null;
+            writer = null;
+            super.reset();
+            addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            }
+        }
+    }
+
+    private class ThresholdOutputStream extends ServletOutputStream {
+
+        private final HttpServletResponse response;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private OutputStream target;
+
+        ThresholdOutputStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null && buffer.size() + len <= minResponseSize) {
+                buffer.write(b, off, len);
+                return;
+            }
+            if (target == null) {
+                startStreaming();
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Until the threshold is reached the buffered bytes are kept back, so the response stays uncommitted
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (target == null) {
+                response.setContentLength(buffer.size());
+                buffer.writeTo(response.getOutputStream());
+            }
+            else if (target instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+            response.getOutputStream().flush();
+        }
+
+        void resetBuffer() {
+            if (target != null) {
+                throw new IllegalStateException("Cannot reset buffer after the response has started streaming");
+            }
+            buffer.reset();
+        }
+
+        private void startStreaming() throws IOException {
+            if (isCompressible(response.getContentType())) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                target = new GZIPOutputStream(response.getOutputStream(), 8192, true);
+            }
+            else {
+                target = response.getOutputStream();
+            }
+            buffer.writeTo(target);
+            buffer.reset();
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return response.getOutputStream().isReady();
+            }
+            catch (IOException ex) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.getOutputStream().setWriteListener(writeListener);
+            }
+            catch (IOException ex) {
+                throw new IllegalStateException("Failed to obtain the response output stream", ex);
+            }
+        }
+    }
+}
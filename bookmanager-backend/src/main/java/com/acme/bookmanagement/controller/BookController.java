@@ -2,25 +2,35 @@ package com.acme.bookmanagement.controller;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import com.acme.bookmanagement.model.Author;
 import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.AuthorService;
 import com.acme.bookmanagement.service.BookService;
 
 @Controller
 @RequestMapping("/graphql")
 public class BookController {
 
+    private static final int DEFAULT_AUTOCOMPLETE_RESULTS = 10;
+
     private final BookService bookService;
+    private final AuthorService authorService;
 
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, AuthorService authorService) {
         this.bookService = bookService;
+        this.authorService = authorService;
     }
 
     @QueryMapping
@@ -35,8 +45,7 @@ public class BookController {
 
     @MutationMapping
     public Book createBook(@Argument String title, @Argument String author, @Argument LocalDate publishedDate) {
-        Book book = new Book(null, title, author, publishedDate);
-        return bookService.save(book);
+        return bookService.createBook(title, author, publishedDate);
     }
 
     @MutationMapping
@@ -51,6 +60,26 @@ public class BookController {
         return bookService.findBooksByDateRange(start, end);
     }
 
+    @QueryMapping
+    public List<Book> findBooksByProgress(@Argument Book.ReadingProgress progress) {
+        return bookService.findBooksByProgress(progress);
+    }
+
+    @QueryMapping
+    public Window<Book> findBooksByAuthor(@Argument Long authorId, ScrollSubrange subrange) {
+        return bookService.findBooksByAuthor(authorId, subrange);
+    }
+
+    @QueryMapping
+    public List<Author> authors(@Argument String prefix, @Argument Integer first) {
+        return authorService.findByPrefix(prefix, first != null ? first : DEFAULT_AUTOCOMPLETE_RESULTS);
+    }
+
+    @BatchMapping(typeName = "Book", field = "author")
+    public Map<Book, String> author(List<Book> books) {
+        return authorService.findAuthorNames(books);
+    }
+
     @MutationMapping
     public Book updateBookProgress(@Argument Long id, @Argument Book.ReadingProgress progress) {
         return bookService.updateReadingProgress(id, progress);
@@ -0,0 +1,11 @@
+package com.acme.bookmanagement.repository;
+
+import java.util.Optional;
+
+import com.acme.bookmanagement.model.Author;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuthorRepository extends JpaRepository<Author, Long> {
+
+    Optional<Author> findByName(String name);
+}
@@ -1,8 +1,19 @@
 package com.acme.bookmanagement.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import com.acme.bookmanagement.model.Book;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
-}
 
+    List<Book> findByPublishedDateBetween(LocalDate startDate, LocalDate endDate);
+
+    List<Book> findByReadingProgressOrderByPublishedDateAsc(Book.ReadingProgress readingProgress);
+
+    Window<Book> findByAuthorIdOrderByIdAsc(Long authorId, ScrollPosition position, Limit limit);
+}
@@ -0,0 +1,40 @@
+package com.acme.bookmanagement.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.acme.bookmanagement.model.Author;
+
+/**
+ * In-memory index of authors sorted by case-insensitive name, used for autocomplete.
+ * A prefix lookup is a range scan over the sorted keys, so it costs O(log n + k).
+ */
+class AuthorPrefixIndex {
+
+    // Separates the name from the id, so authors whose names only differ in case keep their own keys
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, Author> authors = new ConcurrentSkipListMap<>();
+
+    void add(Author author) {
+        authors.put(key(author), author);
+    }
+
+    List<Author> findByPrefix(String prefix, int limit) {
+        String from = normalize(prefix);
+        ConcurrentNavigableMap<String, Author> matches = authors.subMap(from, true, from + Character.MAX_VALUE, true);
+        return matches.values().stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static String key(Author author) {
+        return normalize(author.getName()) + KEY_SEPARATOR + author.getId();
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
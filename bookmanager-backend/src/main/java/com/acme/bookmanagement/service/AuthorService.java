@@ -0,0 +1,100 @@
+package com.acme.bookmanagement.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.repository.AuthorRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class AuthorService {
+    private static final int MAX_AUTOCOMPLETE_RESULTS = 50;
+
+    private final AuthorRepository authorRepository;
+    private final AuthorPrefixIndex authorIndex = new AuthorPrefixIndex();
+    private final Map<Long, String> authorNamesById = new ConcurrentHashMap<>();
+
+    public AuthorService(AuthorRepository authorRepository) {
+        this.authorRepository = authorRepository;
+    }
+
+    @PostConstruct
+    public void loadAuthorIndex() {
+        authorRepository.findAll().forEach(this::index);
+    }
+
+    /**
+     * Returns the author with the given name, inserting it if it does not exist yet. When
+     * called inside a transaction, a new author only enters the prefix index once that
+     * transaction commits, so a rolled back insert never shows up in autocomplete.
+     */
+    public Author findOrCreate(String name) {
+        return authorRepository.findByName(name).orElseGet(() -> {
+            Author author = authorRepository.saveAndFlush(new Author(null, name));
+            addToIndexAfterCommit(author);
+            return author;
+        });
+    }
+
+    public List<Author> findByPrefix(String prefix, int limit) {
+        return authorIndex.findByPrefix(prefix, Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_RESULTS)));
+    }
+
+    /**
+     * Resolves the author names of a batch of books from memory. Only the author ids are
+     * read from the books, which does not initialize their lazy author references. Authors
+     * that are not known yet, such as rows inserted outside this application, are loaded
+     * with a single query and remembered.
+     */
+    public Map<Book, String> findAuthorNames(Collection<Book> books) {
+        Set<Long> missingIds = books.stream()
+                .map(Book::getAuthor)
+                .filter(Objects::nonNull)
+                .map(Author::getId)
+                .filter(id -> !authorNamesById.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!missingIds.isEmpty()) {
+            authorRepository.findAllById(missingIds).forEach(this::index);
+        }
+
+        Map<Book, String> names = new HashMap<>();
+        for (Book book : books) {
+            String name = book.getAuthor() != null ? authorNamesById.get(book.getAuthor().getId()) : null;
+            if (name != null) {
+                names.put(book, name);
+            }
+        }
+        return names;
+    }
+
+    private void addToIndexAfterCommit(Author author) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(author);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(author);
+            }
+        });
+    }
+
+    private void index(Author author) {
+        authorIndex.add(author);
+        authorNamesById.put(author.getId(), author.getName());
+    }
+}
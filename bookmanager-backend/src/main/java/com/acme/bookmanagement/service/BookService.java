@@ -5,16 +5,27 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.acme.bookmanagement.model.Book;
 import com.acme.bookmanagement.repository.BookRepository;
 
 @Service
 public class BookService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookRepository bookRepository;
+    private final AuthorService authorService;
+    private final TransactionTemplate transactionTemplate;
     private final Map<Long, Book> recentlyDeletedBooks = new LinkedHashMap<Long, Book>() {
         @Override
         protected boolean removeEldestEntry(Map.Entry<Long, Book> eldest) {
@@ -22,8 +33,11 @@ public class BookService {
         }
     };
 
-    public BookService(BookRepository bookRepository) {
+    public BookService(BookRepository bookRepository, AuthorService authorService,
+            PlatformTransactionManager transactionManager) {
         this.bookRepository = bookRepository;
+        this.authorService = authorService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public List<Book> findAll() {
@@ -38,6 +52,25 @@ public class BookService {
         return bookRepository.save(book);
     }
 
+    /**
+     * Saves a new book together with its author, creating the author if needed, in one
+     * transaction. If a concurrent request inserts the same new author first, the unique
+     * name constraint rejects this insert; the retry then finds the committed author.
+     */
+    public Book createBook(String title, String authorName, LocalDate publishedDate) {
+        try {
+            return transactionTemplate.execute(status -> saveWithAuthor(title, authorName, publishedDate));
+        }
+        catch (DataIntegrityViolationException ex) {
+            return transactionTemplate.execute(status -> saveWithAuthor(title, authorName, publishedDate));
+        }
+    }
+
+    private Book saveWithAuthor(String title, String authorName, LocalDate publishedDate) {
+        Book book = new Book(null, title, authorService.findOrCreate(authorName), publishedDate);
+        return bookRepository.save(book);
+    }
+
     public Long deleteById(Long id) {
         Optional<Book> book = bookRepository.findById(id);
         if (book.isPresent()) {
@@ -48,10 +81,17 @@ public class BookService {
     }
 
     public List<Book> findBooksByDateRange(LocalDate startDate, LocalDate endDate) {
-        return bookRepository.findAll().stream()
-                .filter(book -> !book.getPublishedDate().isBefore(startDate)
-                        && !book.getPublishedDate().isAfter(endDate))
-                .collect(Collectors.toList());
+        return bookRepository.findByPublishedDateBetween(startDate, endDate);
+    }
+
+    public List<Book> findBooksByProgress(Book.ReadingProgress progress) {
+        return bookRepository.findByReadingProgressOrderByPublishedDateAsc(progress);
+    }
+
+    public Window<Book> findBooksByAuthor(Long authorId, ScrollSubrange subrange) {
+        ScrollPosition position = subrange.position().orElse(ScrollPosition.keyset());
+        int pageSize = Math.max(1, Math.min(subrange.count().orElse(DEFAULT_PAGE_SIZE), MAX_PAGE_SIZE));
+        return bookRepository.findByAuthorIdOrderByIdAsc(authorId, position, Limit.of(pageSize));
     }
 
     public Book updateReadingProgress(Long id, Book.ReadingProgress progress) {
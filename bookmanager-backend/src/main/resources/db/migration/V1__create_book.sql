@@ -0,0 +1,20 @@
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE book (
+    id               BIGINT       NOT NULL,
+    title            VARCHAR(255),
+    author           VARCHAR(255),
+    published_date   DATE,
+    reading_progress VARCHAR(32)  NOT NULL,
+    CONSTRAINT pk_book PRIMARY KEY (id),
+    CONSTRAINT ck_book_reading_progress CHECK (reading_progress IN ('WANT_TO_READ', 'READING', 'COMPLETED'))
+);
+
+-- findBooksByDate: range scan on the published date
+CREATE INDEX idx_book_published_date ON book (published_date);
+
+-- author lookup
+CREATE INDEX idx_book_author ON book (author);
+
+-- reading progress filtering, ordered by published date within each status
+CREATE INDEX idx_book_reading_progress_published_date ON book (reading_progress, published_date);
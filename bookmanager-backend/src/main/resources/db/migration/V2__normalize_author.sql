@@ -0,0 +1,24 @@
+CREATE SEQUENCE author_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE author (
+    id   BIGINT       NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_author PRIMARY KEY (id),
+    CONSTRAINT uk_author_name UNIQUE (name)
+);
+
+INSERT INTO author (id, name)
+SELECT NEXT VALUE FOR author_seq, name
+FROM (SELECT DISTINCT author AS name FROM book WHERE author IS NOT NULL) AS distinct_author;
+
+ALTER TABLE book ADD COLUMN author_id BIGINT;
+
+UPDATE book SET author_id = (SELECT a.id FROM author a WHERE a.name = book.author);
+
+DROP INDEX idx_book_author;
+ALTER TABLE book DROP COLUMN author;
+
+-- findBooksByAuthor: books of one author, paged by id
+CREATE INDEX idx_book_author_id ON book (author_id, id);
+
+ALTER TABLE book ADD CONSTRAINT fk_book_author FOREIGN KEY (author_id) REFERENCES author (id);
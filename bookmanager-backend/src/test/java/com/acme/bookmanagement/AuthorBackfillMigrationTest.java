@@ -0,0 +1,92 @@
+package com.acme.bookmanagement;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.AuthorService;
+import com.acme.bookmanagement.service.BookService;
+
+/**
+ * Migrates a database that already holds V1 rows to the normalized author schema, the way
+ * an existing file database of the persistent profile is upgraded.
+ */
+class AuthorBackfillMigrationTest {
+
+    private String url;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        insertBook("title-1", "author-1");
+        insertBook("title-2", "author-2");
+        insertBook("title-3", "author-1");
+        insertBook("title-4", null);
+        insertBook("title-5", "author-2");
+        insertBook("title-6", "author-3");
+    }
+
+    @Test
+    void testAuthorsAreBackfilledAndLinked() {
+        Flyway.configure().dataSource(jdbcTemplate.getDataSource()).load().migrate();
+
+        List<String> names = jdbcTemplate.queryForList("SELECT name FROM author ORDER BY name", String.class);
+        assertThat(names).containsExactly("author-1", "author-2", "author-3");
+
+        List<Map<String, Object>> books = jdbcTemplate.queryForList(
+                "SELECT b.id, a.name FROM book b LEFT JOIN author a ON a.id = b.author_id ORDER BY b.id");
+        assertThat(books).extracting(row -> row.get("NAME"))
+                .containsExactly("author-1", "author-2", "author-1", null, "author-2", "author-3");
+    }
+
+    @Test
+    void testNewAuthorIdsDoNotCollideWithBackfilledIds() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url)) {
+            Set<Long> backfilledIds = new HashSet<>(
+                    jdbcTemplate.queryForList("SELECT id FROM author", Long.class));
+            assertThat(backfilledIds).hasSize(3);
+
+            AuthorService authorService = context.getBean(AuthorService.class);
+            BookService bookService = context.getBean(BookService.class);
+            // More than one allocation block of the pooled author_seq
+            for (int i = 0; i < 120; i++) {
+                Author author = authorService.findOrCreate("new-author-" + i);
+                assertThat(backfilledIds).doesNotContain(author.getId());
+            }
+            Book book = bookService.createBook("title-7", "author-1", LocalDate.of(2024, 1, 1));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM author", Integer.class)).isEqualTo(123);
+            assertThat(jdbcTemplate.queryForObject("SELECT a.name FROM book b JOIN author a ON a.id = b.author_id "
+                    + "WHERE b.id = ?", String.class, book.getId())).isEqualTo("author-1");
+            assertThat(authorService.findByPrefix("author-", 10)).extracting(Author::getName)
+                    .containsExactly("author-1", "author-2", "author-3");
+        }
+    }
+
+    private void insertBook(String title, String author) {
+        jdbcTemplate.update("INSERT INTO book (id, title, author, published_date, reading_progress) "
+                + "VALUES (NEXT VALUE FOR book_seq, ?, ?, ?, 'WANT_TO_READ')", title, author, LocalDate.of(2021, 2, 3));
+    }
+}
@@ -0,0 +1,59 @@
+package com.acme.bookmanagement;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.repository.BookRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest
+@ActiveProfiles("persistent")
+class PersistentProfileTest {
+
+    @TempDir
+    static Path dataDir;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) {
+        // Keep the profile's settings, only move the database file into the temp directory
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:file:" + dataDir.resolve("bookdb") + ";DB_CLOSE_ON_EXIT=FALSE");
+    }
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void testSchemaIsMigratedAndValidatedInFileDatabase() {
+        Book saved = bookRepository.save(new Book(null, "title-1", null, LocalDate.of(2021, 2, 3)));
+
+        assertThat(bookRepository.findById(saved.getId())).isPresent();
+        assertThat(Files.exists(dataDir.resolve("bookdb.mv.db"))).isTrue();
+    }
+
+    @Test
+    void testConnectionPoolIsSizedForEmbeddedDatabase() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertThat(hikari.getPoolName()).isEqualTo("book-management");
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(4);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(4);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(5000);
+    }
+}
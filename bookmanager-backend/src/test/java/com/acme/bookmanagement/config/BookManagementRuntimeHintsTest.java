@@ -0,0 +1,51 @@
+package com.acme.bookmanagement.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.acme.bookmanagement.controller.BookController;
+import com.acme.bookmanagement.model.Book;
+
+class BookManagementRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    public void setUp() {
+        hints = new RuntimeHints();
+        new BookManagementRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testBookIsRegisteredForReflection() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Book.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Book.ReadingProgress.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(Book.class.getMethod("setReadingProgress", Book.ReadingProgress.class))
+                .test(hints));
+    }
+
+    @Test
+    void testBookControllerIsRegisteredForReflection() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(BookController.class.getMethod("findAllBooks"))
+                .test(hints));
+    }
+
+    @Test
+    void testKeysetCursorTypesAreRegisteredForReflection() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("java.util.Collections$UnmodifiableMap"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Long.class).test(hints));
+    }
+
+    @Test
+    void testGraphQlSchemaIsRegisteredAsResource() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("graphql/schema.graphqls").test(hints));
+    }
+}
@@ -0,0 +1,110 @@
+package com.acme.bookmanagement.config;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.BookService;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class GraphQlEncodingConfigurationTest {
+
+    private static final String QUERY = """
+            {"query": "{ findAllBooks { id title readingProgress } }"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookService bookService;
+
+    @Test
+    void testCborResponseWhenRequested() throws Exception {
+        when(bookService.findAll()).thenReturn(List.of(
+                new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3)),
+                new Book(2L, "title-2", new Author(2L, "author-2"), LocalDate.of(2022, 3, 4))));
+
+        MvcResult result = mockMvc.perform(post("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(QUERY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, Map<String, List<Map<String, Object>>>> response = GraphQlEncodingConfiguration
+                .cborObjectMapper().readValue(body, new TypeReference<>() {
+                });
+        List<Map<String, Object>> books = response.get("data").get("findAllBooks");
+        assertThat(books).extracting(book -> book.get("title")).containsExactly("title-1", "title-2");
+        assertThat(books).extracting(book -> book.get("readingProgress"))
+                .containsOnly("WANT_TO_READ");
+    }
+
+    @Test
+    void testJsonResponseWhenCborIsRefused() throws Exception {
+        when(bookService.findAll()).thenReturn(List.of(
+                new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3))));
+
+        mockMvc.perform(post("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0, application/json")
+                .content(QUERY))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testJsonResponseWhenPreferredOverCbor() throws Exception {
+        when(bookService.findAll()).thenReturn(List.of(
+                new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3))));
+
+        mockMvc.perform(post("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT, "application/json, application/cbor;q=0.5")
+                .content(QUERY))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testJsonResponseByDefault() throws Exception {
+        when(bookService.findAll()).thenReturn(List.of(
+                new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3))));
+
+        mockMvc.perform(post("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON, MediaType.ALL)
+                .content(QUERY))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.findAllBooks[0].title").value("title-1"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.acme.bookmanagement.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+class GzipResponseFilterTest {
+
+    private static final int MIN_RESPONSE_SIZE = 64;
+
+    private final GzipResponseFilter filter = new GzipResponseFilter(MIN_RESPONSE_SIZE, List.of(MediaType.APPLICATION_JSON));
+
+    @Test
+    void testFailureAfterPartialOutputLeavesResponseUncommitted() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrapper) -> {
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.getWriter().write("{\"data\":");
+            wrapper.getWriter().flush();
+            throw new IllegalStateException("data fetcher failed");
+        };
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> filter.doFilter(gzipRequest(), response, chain))
+                .withMessage("data fetcher failed");
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void testResetBufferDiscardsPartialOutput() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrapper) -> {
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.getWriter().write("{\"data\":");
+            wrapper.resetBuffer();
+            wrapper.getWriter().write("{\"errors\":[]}");
+        };
+
+        filter.doFilter(gzipRequest(), response, chain);
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"errors\":[]}");
+        assertThat(response.getContentLength()).isEqualTo(13);
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void testResetAllowsSwitchingToOutputStream() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrapper) -> {
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.getWriter().write("{\"data\":");
+            wrapper.reset();
+            wrapper.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            wrapper.getOutputStream().write("failed".getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(gzipRequest(), response, chain);
+
+        assertThat(response.getContentAsString()).isEqualTo("failed");
+        assertThat(response.getContentType()).isEqualTo(MediaType.TEXT_PLAIN_VALUE);
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+    }
+
+    @Test
+    void testResetBufferAfterStreamingStartedIsRejected() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrapper) -> {
+            wrapper.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            wrapper.getOutputStream().write(new byte[MIN_RESPONSE_SIZE + 1]);
+            wrapper.resetBuffer();
+        };
+
+        assertThatIllegalStateException().isThrownBy(() -> filter.doFilter(gzipRequest(), response, chain));
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+    }
+
+    @Test
+    void testNonBlockingWritesDelegateToResponse() throws Exception {
+        ServletOutputStream outputStream = mock(ServletOutputStream.class);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(outputStream);
+        when(outputStream.isReady()).thenReturn(false);
+        WriteListener writeListener = mock(WriteListener.class);
+        FilterChain chain = (request, wrapper) -> {
+            ServletOutputStream wrapperStream = wrapper.getOutputStream();
+            assertThat(wrapperStream.isReady()).isFalse();
+            wrapperStream.setWriteListener(writeListener);
+        };
+
+        filter.doFilter(gzipRequest(), response, chain);
+
+        verify(outputStream).setWriteListener(writeListener);
+    }
+
+    private static MockHttpServletRequest gzipRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        request.addHeader("Accept-Encoding", "gzip");
+        return request;
+    }
+}
@@ -0,0 +1,130 @@
+package com.acme.bookmanagement.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.AuthorService;
+import com.acme.bookmanagement.service.BookService;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Runs against the embedded Tomcat, so headers are checked as a real client receives them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private BookService bookService;
+
+    @MockBean
+    private AuthorService authorService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void testLargeResponseIsGzipped() throws Exception {
+        List<Book> books = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> new Book(id, "title-" + id, new Author(id, "author-" + id),
+                        LocalDate.of(2021, 2, 3)))
+                .toList();
+        when(bookService.findAll()).thenReturn(books);
+        when(authorService.findAuthorNames(anyCollection())).thenReturn(Map.of());
+
+        HttpResponse<byte[]> response = post("{\"query\": \"{ findAllBooks { id title publishedDate readingProgress } }\"}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(response.body())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertThat(json).startsWith("{\"data\":{\"findAllBooks\":[").contains("\"title\":\"title-200\"");
+    }
+
+    @Test
+    void testLargeCborResponseIsGzipped() throws Exception {
+        List<Book> books = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new Book(id, "title-" + id, null, LocalDate.of(2021, 2, 3)))
+                .toList();
+        when(bookService.findAll()).thenReturn(books);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/cbor")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"query\": \"{ findAllBooks { id title } }\"}"))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains("application/cbor");
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+        Map<String, Map<String, List<Map<String, Object>>>> body = GraphQlEncodingConfiguration.cborObjectMapper()
+                .readValue(new GZIPInputStream(new ByteArrayInputStream(response.body())), new TypeReference<>() {
+                });
+        assertThat(body.get("data").get("findAllBooks")).hasSize(500);
+    }
+
+    @Test
+    void testSmallResponseIsNotGzipped() throws Exception {
+        when(bookService.findById(1L)).thenReturn(Optional.of(
+                new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3))));
+
+        HttpResponse<byte[]> response = post("{\"query\": \"{ findBookById(id: 1) { id title } }\"}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(response.body().length);
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains("\"title\":\"title-1\"");
+    }
+
+    @Test
+    void testRefusedGzipIsNotApplied() throws Exception {
+        List<Book> books = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> new Book(id, "title-" + id, null, LocalDate.of(2021, 2, 3)))
+                .toList();
+        when(bookService.findAll()).thenReturn(books);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+                .header("Content-Type", "application/json")
+                .header("Accept-Encoding", "gzip;q=0, identity")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"query\": \"{ findAllBooks { id title } }\"}"))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
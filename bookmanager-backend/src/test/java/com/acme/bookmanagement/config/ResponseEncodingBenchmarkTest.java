@@ -0,0 +1,177 @@
+package com.acme.bookmanagement.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.AuthorService;
+import com.acme.bookmanagement.service.BookService;
+
+/**
+ * Compares payload size and serialization CPU time of a 100k book {@code findAllBooks}
+ * response encoded as JSON and CBOR, with and without gzip. The response comes from the
+ * real GraphQL engine and is written by the application's message converters, as on the
+ * endpoint. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ResponseEncodingBenchmarkTest {
+
+    private static final int BOOK_COUNT = 100_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static final String QUERY = "{ findAllBooks { id title author publishedDate readingProgress } }";
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private HttpMessageConverters messageConverters;
+
+    @MockBean
+    private BookService bookService;
+
+    @MockBean
+    private AuthorService authorService;
+
+    private Map<String, Object> response;
+
+    @BeforeEach
+    public void setUp() {
+        Book.ReadingProgress[] progress = Book.ReadingProgress.values();
+        List<Book> books = LongStream.range(0, BOOK_COUNT)
+                .mapToObj(id -> {
+                    Book book = new Book(id, "title-" + id, new Author(id % 1_000, "author-" + (id % 1_000)),
+                            LocalDate.of(2000, 1, 1).plusDays(id % 9_000));
+                    book.setReadingProgress(progress[(int) (id % progress.length)]);
+                    return book;
+                })
+                .toList();
+        when(bookService.findAll()).thenReturn(books);
+        when(authorService.findAuthorNames(anyCollection())).thenAnswer(invocation -> {
+            List<Book> batch = invocation.getArgument(0);
+            return batch.stream().collect(Collectors.toMap(Function.identity(), book -> book.getAuthor().getName()));
+        });
+
+        response = graphQlService
+                .execute(new DefaultExecutionGraphQlRequest(QUERY, null, null, null, "benchmark", null))
+                .block()
+                .toMap();
+    }
+
+    @Test
+    void compareEncodings() throws IOException {
+        Result json = measure(MediaType.APPLICATION_JSON, false);
+        Result jsonGzip = measure(MediaType.APPLICATION_JSON, true);
+        Result cbor = measure(MediaType.APPLICATION_CBOR, false);
+        Result cborGzip = measure(MediaType.APPLICATION_CBOR, true);
+
+        System.out.printf("%d books%n", BOOK_COUNT);
+        System.out.printf("%-10s %12s %12s%n", "encoding", "bytes", "cpu ms/op");
+        print("json", json);
+        print("json+gzip", jsonGzip);
+        print("cbor", cbor);
+        print("cbor+gzip", cborGzip);
+
+        assertThat(cbor.bytes()).isLessThan(json.bytes());
+        assertThat(jsonGzip.bytes()).isLessThan(json.bytes());
+    }
+
+    private Result measure(MediaType mediaType, boolean gzip) throws IOException {
+        HttpMessageConverter<Object> converter = converterFor(mediaType);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long bytes = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bytes = write(converter, mediaType, gzip);
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            write(converter, mediaType, gzip);
+        }
+        long cpuNanos = threads.getCurrentThreadCpuTime() - start;
+        return new Result(bytes, cpuNanos / MEASURED_ITERATIONS / 1_000_000.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> converterFor(MediaType mediaType) {
+        return (HttpMessageConverter<Object>) messageConverters.getConverters().stream()
+                .filter(converter -> converter.canWrite(Map.class, mediaType))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private long write(HttpMessageConverter<Object> converter, MediaType mediaType, boolean gzip) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(counter) : counter) {
+            converter.write(response, mediaType, new StreamingOutputMessage(out));
+        }
+        return counter.count;
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("%-10s %12d %12.1f%n", name, result.bytes(), result.cpuMillis());
+    }
+
+    private record Result(long bytes, double cpuMillis) {
+    }
+
+    private record StreamingOutputMessage(OutputStream body, HttpHeaders headers) implements HttpOutputMessage {
+
+        StreamingOutputMessage(OutputStream body) {
+            this(body, new HttpHeaders());
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -5,18 +5,29 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.graphql.test.tester.GraphQlTester;
 
+import com.acme.bookmanagement.model.Author;
 import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.AuthorService;
 import com.acme.bookmanagement.service.BookService;
 
 @GraphQlTest(BookController.class)
@@ -28,16 +39,36 @@ public class BookControllerTest {
         @MockBean
         private BookService bookService;
 
+        @MockBean
+        private AuthorService authorService;
+
+        /**
+         * Shape of a book in a GraphQL response, where the author is resolved to its name.
+         */
+        private record BookResponse(Long id, String title, String author, LocalDate publishedDate,
+                        Book.ReadingProgress readingProgress) {
+        }
+
         private final Map<Long, Book> books = Map.of(
                         1L, new Book(1L,
                                         "title-1",
-                                        "author-1",
+                                        new Author(1L, "author-1"),
                                         LocalDate.of(2021, 2, 3)),
                         2L, new Book(2L,
                                         "title-2",
-                                        "author-2",
+                                        new Author(2L, "author-2"),
                                         LocalDate.of(2022, 3, 4)));
 
+        @BeforeEach
+        void setUp() {
+                when(this.authorService.findAuthorNames(anyCollection()))
+                                .thenAnswer(invocation -> {
+                                        List<Book> batch = invocation.getArgument(0);
+                                        return batch.stream().collect(Collectors.toMap(Function.identity(),
+                                                        book -> book.getAuthor().getName()));
+                                });
+        }
+
         @Test
         void shouldGetBookById() {
                 when(this.bookService.findById(1L))
@@ -80,11 +111,11 @@ public class BookControllerTest {
                                 .documentName("findAllBooks")
                                 .execute()
                                 .path("findAllBooks")
-                                .entityList(Book.class)
+                                .entityList(BookResponse.class)
                                 .hasSize(2)
                                 .satisfies(bookList -> {
-                                        assertThat(bookList).extracting(Book::getId).containsExactlyInAnyOrder(1L, 2L);
-                                        assertThat(bookList).extracting(Book::getTitle)
+                                        assertThat(bookList).extracting(BookResponse::id).containsExactlyInAnyOrder(1L, 2L);
+                                        assertThat(bookList).extracting(BookResponse::title)
                                                         .containsExactlyInAnyOrder("title-1", "title-2");
                                 });
         }
@@ -94,9 +125,9 @@ public class BookControllerTest {
                 String title = "new-title";
                 String author = "new-author";
                 LocalDate publishedDate = LocalDate.of(2023, 5, 1);
-                Book newBook = new Book(3L, title, author, publishedDate);
+                Book newBook = new Book(3L, title, new Author(3L, author), publishedDate);
 
-                when(this.bookService.save(any(Book.class)))
+                when(this.bookService.createBook(title, author, publishedDate))
                                 .thenReturn(newBook);
 
                 this.graphQlTester
@@ -106,12 +137,12 @@ public class BookControllerTest {
                                 .variable("publishedDate", publishedDate.toString())
                                 .execute()
                                 .path("createBook")
-                                .entity(Book.class)
+                                .entity(BookResponse.class)
                                 .satisfies(book -> {
-                                        assertThat(book.getId()).isEqualTo(3L);
-                                        assertThat(book.getTitle()).isEqualTo(title);
-                                        assertThat(book.getAuthor()).isEqualTo(author);
-                                        assertThat(book.getPublishedDate()).isEqualTo(publishedDate);
+                                        assertThat(book.id()).isEqualTo(3L);
+                                        assertThat(book.title()).isEqualTo(title);
+                                        assertThat(book.author()).isEqualTo(author);
+                                        assertThat(book.publishedDate()).isEqualTo(publishedDate);
                                 });
         }
 
@@ -144,11 +175,11 @@ public class BookControllerTest {
                                 .variable("endDate", endDate.toString())
                                 .execute()
                                 .path("findBooksByDate")
-                                .entityList(Book.class)
+                                .entityList(BookResponse.class)
                                 .hasSize(2)
                                 .satisfies(bookList -> assertThat(bookList)
-                                                .allMatch(book -> !book.getPublishedDate().isBefore(startDate)
-                                                                && !book.getPublishedDate().isAfter(endDate)));
+                                                .allMatch(book -> !book.publishedDate().isBefore(startDate)
+                                                                && !book.publishedDate().isAfter(endDate)));
         }
 
         @Test
@@ -164,10 +195,10 @@ public class BookControllerTest {
                                 .variable("startDate", startDate.toString())
                                 .execute()
                                 .path("findBooksByDate")
-                                .entityList(Book.class)
+                                .entityList(BookResponse.class)
                                 .hasSize(2)
                                 .satisfies(bookList -> assertThat(bookList)
-                                                .allMatch(book -> !book.getPublishedDate().isBefore(startDate)));
+                                                .allMatch(book -> !book.publishedDate().isBefore(startDate)));
         }
 
         @Test
@@ -184,13 +215,90 @@ public class BookControllerTest {
                                 .variable("endDate", endDate.toString())
                                 .execute()
                                 .path("findBooksByDate")
-                                .entityList(Book.class)
+                                .entityList(BookResponse.class)
                                 .hasSize(0);
         }
 
+        @Test
+        void shouldFindBooksByProgress() {
+                when(this.bookService.findBooksByProgress(Book.ReadingProgress.WANT_TO_READ))
+                                .thenReturn(List.of(books.get(1L), books.get(2L)));
+
+                this.graphQlTester
+                                .documentName("findBooksByProgress")
+                                .variable("progress", "WANT_TO_READ")
+                                .execute()
+                                .path("findBooksByProgress")
+                                .entityList(BookResponse.class)
+                                .hasSize(2)
+                                .satisfies(bookList -> assertThat(bookList)
+                                                .allMatch(book -> book.readingProgress() == Book.ReadingProgress.WANT_TO_READ));
+        }
+
+        @Test
+        void shouldFindBooksByAuthor() {
+                when(this.bookService.findBooksByAuthor(eq(1L), any(ScrollSubrange.class)))
+                                .thenReturn(Window.from(List.of(books.get(1L), books.get(2L)),
+                                                ScrollPosition::offset, true));
+
+                GraphQlTester.Response response = this.graphQlTester
+                                .documentName("findBooksByAuthor")
+                                .variable("authorId", 1)
+                                .variable("first", 2)
+                                .execute();
+
+                response.path("findBooksByAuthor.edges[*].node.title")
+                                .entityList(String.class)
+                                .containsExactly("title-1", "title-2");
+                response.path("findBooksByAuthor.edges[*].node.author")
+                                .entityList(String.class)
+                                .containsExactly("author-1", "author-2");
+                response.path("findBooksByAuthor.pageInfo.hasNextPage")
+                                .entity(Boolean.class)
+                                .isEqualTo(true);
+
+                // Both authors are resolved by one batch call, not one call per book
+                verify(this.authorService, times(1)).findAuthorNames(anyCollection());
+        }
+
+        @Test
+        void shouldFindAuthorsByPrefix() {
+                when(this.authorService.findByPrefix("auth", 10))
+                                .thenReturn(List.of(new Author(1L, "author-1"), new Author(2L, "author-2")));
+
+                this.graphQlTester
+                                .documentName("authors")
+                                .variable("prefix", "auth")
+                                .execute()
+                                .path("authors[*].name")
+                                .entityList(String.class)
+                                .containsExactly("author-1", "author-2");
+        }
+
+        @Test
+        void shouldLimitAuthorsByPrefix() {
+                when(this.authorService.findByPrefix("auth", 1))
+                                .thenReturn(List.of(new Author(1L, "author-1")));
+
+                this.graphQlTester
+                                .documentName("authors")
+                                .variable("prefix", "auth")
+                                .variable("first", 1)
+                                .execute()
+                                .path("authors")
+                                .matchesJson("""
+                                                [
+                                                        {
+                                                                "id": 1,
+                                                                "name": "author-1"
+                                                        }
+                                                ]
+                                                """);
+        }
+
         @Test
         void shouldUpdateBookProgress() {
-                Book updatedBook = new Book(1L, "title-1", "author-1", LocalDate.of(2021, 2, 3));
+                Book updatedBook = new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
                 updatedBook.setReadingProgress(Book.ReadingProgress.READING);
 
                 when(this.bookService.updateReadingProgress(1L, Book.ReadingProgress.READING))
@@ -202,10 +310,10 @@ public class BookControllerTest {
                                 .variable("progress", "READING")
                                 .execute()
                                 .path("updateBookProgress")
-                                .entity(Book.class)
+                                .entity(BookResponse.class)
                                 .satisfies(book -> {
-                                        assertThat(book.getId()).isEqualTo(1L);
-                                        assertThat(book.getReadingProgress()).isEqualTo(Book.ReadingProgress.READING);
+                                        assertThat(book.id()).isEqualTo(1L);
+                                        assertThat(book.readingProgress()).isEqualTo(Book.ReadingProgress.READING);
                                 });
         }
 
@@ -214,10 +322,10 @@ public class BookControllerTest {
                 String title = "new-title";
                 String author = "new-author";
                 LocalDate publishedDate = LocalDate.of(2023, 5, 1);
-                Book newBook = new Book(3L, title, author, publishedDate);
+                Book newBook = new Book(3L, title, new Author(3L, author), publishedDate);
                 newBook.setReadingProgress(Book.ReadingProgress.WANT_TO_READ);
 
-                when(this.bookService.save(any(Book.class)))
+                when(this.bookService.createBook(title, author, publishedDate))
                                 .thenReturn(newBook);
 
                 this.graphQlTester
@@ -227,20 +335,20 @@ public class BookControllerTest {
                                 .variable("publishedDate", publishedDate.toString())
                                 .execute()
                                 .path("createBook")
-                                .entity(Book.class)
+                                .entity(BookResponse.class)
                                 .satisfies(book -> {
-                                        assertThat(book.getId()).isEqualTo(3L);
-                                        assertThat(book.getTitle()).isEqualTo(title);
-                                        assertThat(book.getAuthor()).isEqualTo(author);
-                                        assertThat(book.getPublishedDate()).isEqualTo(publishedDate);
-                                        assertThat(book.getReadingProgress())
+                                        assertThat(book.id()).isEqualTo(3L);
+                                        assertThat(book.title()).isEqualTo(title);
+                                        assertThat(book.author()).isEqualTo(author);
+                                        assertThat(book.publishedDate()).isEqualTo(publishedDate);
+                                        assertThat(book.readingProgress())
                                                         .isEqualTo(Book.ReadingProgress.WANT_TO_READ);
                                 });
         }
 
         @Test
         void shouldUndoDeleteBook() {
-                Book undeletedBook = new Book(1L, "title-1", "author-1", LocalDate.of(2021, 2, 3));
+                Book undeletedBook = new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
                 undeletedBook.setReadingProgress(Book.ReadingProgress.WANT_TO_READ);
 
                 when(this.bookService.undoDelete(1L))
@@ -251,13 +359,13 @@ public class BookControllerTest {
                                 .variable("id", 1)
                                 .execute()
                                 .path("undoDeleteBook")
-                                .entity(Book.class)
+                                .entity(BookResponse.class)
                                 .satisfies(book -> {
-                                        assertThat(book.getId()).isEqualTo(1L);
-                                        assertThat(book.getTitle()).isEqualTo("title-1");
-                                        assertThat(book.getAuthor()).isEqualTo("author-1");
-                                        assertThat(book.getPublishedDate()).isEqualTo(LocalDate.of(2021, 2, 3));
-                                        assertThat(book.getReadingProgress())
+                                        assertThat(book.id()).isEqualTo(1L);
+                                        assertThat(book.title()).isEqualTo("title-1");
+                                        assertThat(book.author()).isEqualTo("author-1");
+                                        assertThat(book.publishedDate()).isEqualTo(LocalDate.of(2021, 2, 3));
+                                        assertThat(book.readingProgress())
                                                         .isEqualTo(Book.ReadingProgress.WANT_TO_READ);
                                 });
         }
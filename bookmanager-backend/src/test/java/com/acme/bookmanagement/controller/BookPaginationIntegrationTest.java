@@ -0,0 +1,62 @@
+package com.acme.bookmanagement.controller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.service.BookService;
+
+/**
+ * Pages through the real repository over HTTP, so the cursors are encoded and decoded by
+ * the application's cursor strategy rather than by a mocked service.
+ */
+@SpringBootTest
+@AutoConfigureHttpGraphQlTester
+class BookPaginationIntegrationTest {
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void shouldPageThroughBooksByAuthorWithEndCursor() {
+        List<String> expectedTitles = new ArrayList<>();
+        Long authorId = null;
+        for (int i = 1; i <= 5; i++) {
+            Book book = bookService.createBook("paged-title-" + i, "Paged Author", LocalDate.of(2021, 2, i));
+            authorId = book.getAuthor().getId();
+            expectedTitles.add(book.getTitle());
+        }
+
+        List<String> titles = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        boolean hasNextPage = true;
+        while (hasNextPage) {
+            GraphQlTester.Response response = graphQlTester
+                    .documentName("findBooksByAuthor")
+                    .variable("authorId", authorId)
+                    .variable("first", 2)
+                    .variable("after", after)
+                    .execute();
+            titles.addAll(response.path("findBooksByAuthor.edges[*].node.title").entityList(String.class).get());
+            hasNextPage = response.path("findBooksByAuthor.pageInfo.hasNextPage").entity(Boolean.class).get();
+            after = response.path("findBooksByAuthor.pageInfo.endCursor").entity(String.class).get();
+            pages++;
+        }
+
+        assertThat(titles).isEqualTo(expectedTitles);
+        assertThat(pages).isEqualTo(3);
+    }
+}
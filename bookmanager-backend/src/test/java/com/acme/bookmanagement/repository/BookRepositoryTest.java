@@ -0,0 +1,85 @@
+package com.acme.bookmanagement.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+
+@DataJpaTest
+class BookRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author1;
+
+    @BeforeEach
+    public void setUp() {
+        author1 = authorRepository.save(new Author(null, "author-1"));
+        Author author2 = authorRepository.save(new Author(null, "author-2"));
+        bookRepository.save(new Book(null, "title-1", author1, LocalDate.of(2021, 2, 3)));
+        bookRepository.save(new Book(null, "title-2", author2, LocalDate.of(2022, 3, 4)));
+        bookRepository.save(new Book(null, "title-3", author1, LocalDate.of(2023, 4, 5)));
+        bookRepository.save(new Book(null, "title-4", author1, LocalDate.of(2024, 5, 6)));
+    }
+
+    @Test
+    void testFindByPublishedDateBetween() {
+        List<Book> result = bookRepository.findByPublishedDateBetween(
+                LocalDate.of(2021, 1, 1), LocalDate.of(2022, 12, 31));
+        assertThat(result).extracting(Book::getTitle).containsExactlyInAnyOrder("title-1", "title-2");
+    }
+
+    @Test
+    void testFindByReadingProgressOrderedByPublishedDate() {
+        Book reading = bookRepository.save(new Book(null, "title-5", author1, LocalDate.of(2020, 1, 1)));
+        reading.setReadingProgress(Book.ReadingProgress.READING);
+        bookRepository.save(reading);
+        Book earlier = bookRepository.save(new Book(null, "title-6", author1, LocalDate.of(2019, 1, 1)));
+        earlier.setReadingProgress(Book.ReadingProgress.READING);
+        bookRepository.save(earlier);
+
+        List<Book> result = bookRepository.findByReadingProgressOrderByPublishedDateAsc(Book.ReadingProgress.READING);
+        assertThat(result).extracting(Book::getTitle).containsExactly("title-6", "title-5");
+    }
+
+    @Test
+    void testFindByAuthorIdScrollsInIdOrder() {
+        Window<Book> firstPage = bookRepository.findByAuthorIdOrderByIdAsc(
+                author1.getId(), ScrollPosition.keyset(), Limit.of(2));
+        assertThat(firstPage.getContent()).extracting(Book::getTitle).containsExactly("title-1", "title-3");
+        assertThat(firstPage.hasNext()).isTrue();
+
+        Window<Book> secondPage = bookRepository.findByAuthorIdOrderByIdAsc(
+                author1.getId(), firstPage.positionAt(firstPage.size() - 1), Limit.of(2));
+        assertThat(secondPage.getContent()).extracting(Book::getTitle).containsExactly("title-4");
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void testFindByPublishedDateBetweenIsInclusive() {
+        List<Book> result = bookRepository.findByPublishedDateBetween(
+                LocalDate.of(2021, 2, 3), LocalDate.of(2021, 2, 3));
+        assertThat(result).extracting(Book::getTitle).containsExactly("title-1");
+    }
+
+    @Test
+    void testFindByPublishedDateBetweenNoResults() {
+        List<Book> result = bookRepository.findByPublishedDateBetween(
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        assertThat(result).isEmpty();
+    }
+}
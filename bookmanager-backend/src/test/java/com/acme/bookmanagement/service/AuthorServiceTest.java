@@ -0,0 +1,198 @@
+package com.acme.bookmanagement.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.acme.bookmanagement.model.Author;
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.repository.AuthorRepository;
+
+class AuthorServiceTest {
+
+    private AuthorRepository authorRepository;
+    private AuthorService authorService;
+
+    private final Author tolkien = new Author(1L, "J. R. R. Tolkien");
+    private final Author tolstoy = new Author(2L, "Leo Tolstoy");
+    private final Author austen = new Author(3L, "Jane Austen");
+
+    @BeforeEach
+    public void setUp() {
+        authorRepository = Mockito.mock(AuthorRepository.class);
+        when(authorRepository.findAll()).thenReturn(Arrays.asList(tolstoy, tolkien, austen));
+        authorService = new AuthorService(authorRepository);
+        authorService.loadAuthorIndex();
+    }
+
+    @Test
+    void testFindByPrefix() {
+        List<Author> result = authorService.findByPrefix("j", 10);
+        assertEquals(Arrays.asList(tolkien, austen), result);
+    }
+
+    @Test
+    void testFindByPrefixIsCaseInsensitive() {
+        List<Author> result = authorService.findByPrefix("LEO", 10);
+        assertEquals(List.of(tolstoy), result);
+    }
+
+    @Test
+    void testFindByPrefixRespectsLimit() {
+        List<Author> result = authorService.findByPrefix("", 2);
+        assertEquals(Arrays.asList(tolkien, austen), result);
+    }
+
+    @Test
+    void testFindByPrefixClampsNonPositiveLimit() {
+        assertEquals(List.of(tolkien), authorService.findByPrefix("", -1));
+        assertEquals(List.of(tolkien), authorService.findByPrefix("", 0));
+    }
+
+    @Test
+    void testFindByPrefixNoResults() {
+        assertTrue(authorService.findByPrefix("x", 10).isEmpty());
+    }
+
+    @Test
+    void testFindOrCreateExistingAuthor() {
+        when(authorRepository.findByName("Leo Tolstoy")).thenReturn(Optional.of(tolstoy));
+
+        Author result = authorService.findOrCreate("Leo Tolstoy");
+
+        assertEquals(tolstoy, result);
+        verify(authorRepository, never()).saveAndFlush(any(Author.class));
+    }
+
+    @Test
+    void testFindOrCreateNewAuthorIsIndexed() {
+        when(authorRepository.findByName("Lev Tolstoy")).thenReturn(Optional.empty());
+        when(authorRepository.saveAndFlush(any(Author.class))).thenAnswer(invocation -> {
+            Author author = invocation.getArgument(0);
+            author.setId(4L);
+            return author;
+        });
+        assertTrue(authorService.findByPrefix("Lev", 10).isEmpty());
+
+        Author result = authorService.findOrCreate("Lev Tolstoy");
+
+        assertEquals(4L, result.getId());
+        assertEquals(List.of(result), authorService.findByPrefix("Lev", 10));
+    }
+
+    @Test
+    void testFindOrCreateIndexesNewAuthorOnlyAfterCommit() {
+        when(authorRepository.findByName("Lev Tolstoy")).thenReturn(Optional.empty());
+        when(authorRepository.saveAndFlush(any(Author.class))).thenAnswer(invocation -> {
+            Author author = invocation.getArgument(0);
+            author.setId(4L);
+            return author;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authorService.findOrCreate("Lev Tolstoy");
+            assertTrue(authorService.findByPrefix("Lev", 10).isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, authorService.findByPrefix("Lev", 10).size());
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testFindOrCreateDoesNotIndexRolledBackAuthor() {
+        when(authorRepository.findByName("Lev Tolstoy")).thenReturn(Optional.empty());
+        when(authorRepository.saveAndFlush(any(Author.class))).thenAnswer(invocation -> {
+            Author author = invocation.getArgument(0);
+            author.setId(4L);
+            return author;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authorService.findOrCreate("Lev Tolstoy");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        }
+        finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(authorService.findByPrefix("Lev", 10).isEmpty());
+    }
+
+    @Test
+    void testFindAuthorNamesWithoutQuery() {
+        Book book1 = new Book(1L, "title-1", new Author(1L, null), LocalDate.of(2021, 2, 3));
+        Book book2 = new Book(2L, "title-2", new Author(2L, null), LocalDate.of(2022, 3, 4));
+        Book book3 = new Book(3L, "title-3", new Author(1L, null), LocalDate.of(2023, 4, 5));
+
+        Map<Book, String> result = authorService.findAuthorNames(Arrays.asList(book1, book2, book3));
+
+        assertEquals("J. R. R. Tolkien", result.get(book1));
+        assertEquals("Leo Tolstoy", result.get(book2));
+        assertEquals("J. R. R. Tolkien", result.get(book3));
+        verify(authorRepository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void testFindAuthorNamesOfNewAuthorWithoutQuery() {
+        when(authorRepository.findByName("Lev Tolstoy")).thenReturn(Optional.empty());
+        when(authorRepository.saveAndFlush(any(Author.class))).thenAnswer(invocation -> {
+            Author author = invocation.getArgument(0);
+            author.setId(4L);
+            return author;
+        });
+        Book book = new Book(1L, "title-1", authorService.findOrCreate("Lev Tolstoy"), LocalDate.of(2021, 2, 3));
+
+        Map<Book, String> result = authorService.findAuthorNames(List.of(book));
+
+        assertEquals("Lev Tolstoy", result.get(book));
+        verify(authorRepository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void testFindAuthorNamesLoadsUnknownAuthorsOnce() {
+        Author dickens = new Author(5L, "Charles Dickens");
+        Book book1 = new Book(1L, "title-1", new Author(5L, null), LocalDate.of(2021, 2, 3));
+        Book book2 = new Book(2L, "title-2", new Author(1L, null), LocalDate.of(2022, 3, 4));
+        when(authorRepository.findAllById(Set.of(5L))).thenReturn(List.of(dickens));
+
+        Map<Book, String> result = authorService.findAuthorNames(Arrays.asList(book1, book2));
+        authorService.findAuthorNames(List.of(book1));
+
+        assertEquals("Charles Dickens", result.get(book1));
+        assertEquals("J. R. R. Tolkien", result.get(book2));
+        verify(authorRepository, times(1)).findAllById(anyCollection());
+        assertEquals(List.of(dickens), authorService.findByPrefix("Charles", 10));
+    }
+
+    @Test
+    void testFindAuthorNamesSkipsBooksWithoutAuthor() {
+        Book book = new Book(1L, "title-1", null, LocalDate.of(2021, 2, 3));
+
+        Map<Book, String> result = authorService.findAuthorNames(List.of(book));
+
+        assertTrue(result.isEmpty());
+        verify(authorRepository, never()).findAllById(anyCollection());
+    }
+}
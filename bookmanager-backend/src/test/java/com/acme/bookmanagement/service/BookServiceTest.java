@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -18,22 +19,31 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.query.ScrollSubrange;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.acme.bookmanagement.model.Author;
 import com.acme.bookmanagement.model.Book;
 import com.acme.bookmanagement.repository.BookRepository;
 
 class BookServiceTest {
 
     private BookRepository bookRepository;
+    private AuthorService authorService;
     private BookService bookService;
 
-    private final Book book1 = new Book(1L, "title-1", "author-1", LocalDate.of(2021, 2, 3));
-    private final Book book2 = new Book(2L, "title-2", "author-2", LocalDate.of(2022, 3, 4));
+    private final Book book1 = new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
+    private final Book book2 = new Book(2L, "title-2", new Author(2L, "author-2"), LocalDate.of(2022, 3, 4));
 
     @BeforeEach
     public void setUp() {
         bookRepository = Mockito.mock(BookRepository.class);
-        bookService = new BookService(bookRepository);
+        authorService = Mockito.mock(AuthorService.class);
+        bookService = new BookService(bookRepository, authorService, Mockito.mock(PlatformTransactionManager.class));
     }
 
     @Test
@@ -69,17 +79,45 @@ class BookServiceTest {
 
     @Test
     void testSave() {
-        Book newBook = new Book(null, "new-title", "new-author", LocalDate.now());
-        Book savedBook = new Book(3L, "new-title", "new-author", LocalDate.now());
+        Book newBook = new Book(null, "new-title", new Author(3L, "new-author"), LocalDate.now());
+        Book savedBook = new Book(3L, "new-title", new Author(3L, "new-author"), LocalDate.now());
         when(bookRepository.save(newBook)).thenReturn(savedBook);
         Book result = bookService.save(newBook);
         assertEquals(savedBook, result);
     }
 
+    @Test
+    void testCreateBook() {
+        Author author = new Author(3L, "new-author");
+        when(authorService.findOrCreate("new-author")).thenReturn(author);
+        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Book result = bookService.createBook("new-title", "new-author", LocalDate.of(2023, 5, 1));
+
+        assertEquals("new-title", result.getTitle());
+        assertEquals(author, result.getAuthor());
+        assertEquals(LocalDate.of(2023, 5, 1), result.getPublishedDate());
+    }
+
+    @Test
+    void testCreateBookRetriesWhenAuthorWasCreatedConcurrently() {
+        Author author = new Author(3L, "new-author");
+        when(authorService.findOrCreate("new-author"))
+                .thenThrow(new DataIntegrityViolationException("uk_author_name"))
+                .thenReturn(author);
+        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Book result = bookService.createBook("new-title", "new-author", LocalDate.of(2023, 5, 1));
+
+        assertEquals(author, result.getAuthor());
+        verify(authorService, times(2)).findOrCreate("new-author");
+        verify(bookRepository, times(1)).save(any(Book.class));
+    }
+
     @Test
     void testDeleteById() {
         Long bookId = 1L;
-        Book book = new Book(bookId, "title-1", "author-1", LocalDate.of(2021, 2, 3));
+        Book book = new Book(bookId, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
 
         Long deletedId = bookService.deleteById(bookId);
@@ -105,7 +143,7 @@ class BookServiceTest {
     void testFindBooksByDateRange() {
         LocalDate startDate = LocalDate.of(2021, 1, 1);
         LocalDate endDate = LocalDate.of(2022, 12, 31);
-        when(bookRepository.findAll()).thenReturn(Arrays.asList(book1, book2));
+        when(bookRepository.findByPublishedDateBetween(startDate, endDate)).thenReturn(Arrays.asList(book1, book2));
 
         List<Book> result = bookService.findBooksByDateRange(startDate, endDate);
         assertEquals(2, result.size());
@@ -117,7 +155,7 @@ class BookServiceTest {
     void testFindBooksByDateRangeNoResults() {
         LocalDate startDate = LocalDate.of(2023, 1, 1);
         LocalDate endDate = LocalDate.of(2023, 12, 31);
-        when(bookRepository.findAll()).thenReturn(Arrays.asList(book1, book2));
+        when(bookRepository.findByPublishedDateBetween(startDate, endDate)).thenReturn(Collections.emptyList());
 
         List<Book> result = bookService.findBooksByDateRange(startDate, endDate);
         assertTrue(result.isEmpty());
@@ -127,11 +165,57 @@ class BookServiceTest {
     void testFindBooksByDateRangeEdgeCase() {
         LocalDate startDate = LocalDate.of(2021, 2, 3);
         LocalDate endDate = LocalDate.of(2021, 2, 3);
-        when(bookRepository.findAll()).thenReturn(Arrays.asList(book1, book2));
+        when(bookRepository.findByPublishedDateBetween(startDate, endDate)).thenReturn(Collections.singletonList(book1));
 
         List<Book> result = bookService.findBooksByDateRange(startDate, endDate);
         assertEquals(1, result.size());
         assertTrue(result.contains(book1));
+        verify(bookRepository, never()).findAll();
+    }
+
+    @Test
+    void testFindBooksByProgress() {
+        when(bookRepository.findByReadingProgressOrderByPublishedDateAsc(Book.ReadingProgress.WANT_TO_READ))
+                .thenReturn(Arrays.asList(book1, book2));
+
+        List<Book> result = bookService.findBooksByProgress(Book.ReadingProgress.WANT_TO_READ);
+        assertEquals(Arrays.asList(book1, book2), result);
+    }
+
+    @Test
+    void testFindBooksByAuthor() {
+        Window<Book> window = Window.from(Arrays.asList(book1), ScrollPosition::offset);
+        when(bookRepository.findByAuthorIdOrderByIdAsc(1L, ScrollPosition.keyset(), Limit.of(20)))
+                .thenReturn(window);
+
+        Window<Book> result = bookService.findBooksByAuthor(1L, ScrollSubrange.create(null, null, true));
+
+        assertEquals(window, result);
+    }
+
+    @Test
+    void testFindBooksByAuthorAfterCursor() {
+        ScrollPosition after = ScrollPosition.forward(Map.of("id", 1L));
+        Window<Book> window = Window.from(Arrays.asList(book2), ScrollPosition::offset);
+        when(bookRepository.findByAuthorIdOrderByIdAsc(1L, after, Limit.of(5))).thenReturn(window);
+
+        Window<Book> result = bookService.findBooksByAuthor(1L, ScrollSubrange.create(after, 5, true));
+
+        assertEquals(window, result);
+    }
+
+    @Test
+    void testFindBooksByAuthorCapsPageSize() {
+        bookService.findBooksByAuthor(1L, ScrollSubrange.create(null, 1_000, true));
+
+        verify(bookRepository).findByAuthorIdOrderByIdAsc(1L, ScrollPosition.keyset(), Limit.of(100));
+    }
+
+    @Test
+    void testFindBooksByAuthorClampsNonPositivePageSize() {
+        bookService.findBooksByAuthor(1L, ScrollSubrange.create(null, 0, true));
+
+        verify(bookRepository).findByAuthorIdOrderByIdAsc(1L, ScrollPosition.keyset(), Limit.of(1));
     }
 
     @Test
@@ -156,8 +240,8 @@ class BookServiceTest {
 
     @Test
     void testSaveWithDefaultReadingProgress() {
-        Book newBook = new Book(null, "new-title", "new-author", LocalDate.now());
-        Book savedBook = new Book(3L, "new-title", "new-author", LocalDate.now());
+        Book newBook = new Book(null, "new-title", new Author(3L, "new-author"), LocalDate.now());
+        Book savedBook = new Book(3L, "new-title", new Author(3L, "new-author"), LocalDate.now());
         when(bookRepository.save(newBook)).thenReturn(savedBook);
 
         Book result = bookService.save(newBook);
@@ -168,7 +252,7 @@ class BookServiceTest {
 
     @Test
     void testDeleteByIdAndUndoDelete() {
-        Book book = new Book(1L, "title-1", "author-1", LocalDate.of(2021, 2, 3));
+        Book book = new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
         when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
         when(bookRepository.save(book)).thenReturn(book);
 
@@ -188,8 +272,8 @@ class BookServiceTest {
 
     @Test
     void testDeleteByIdAndUndoDeleteMultipleTimes() {
-        Book testBook1 = new Book(1L, "title-1", "author-1", LocalDate.of(2021, 2, 3));
-        Book testBook2 = new Book(2L, "title-2", "author-2", LocalDate.of(2022, 3, 4));
+        Book testBook1 = new Book(1L, "title-1", new Author(1L, "author-1"), LocalDate.of(2021, 2, 3));
+        Book testBook2 = new Book(2L, "title-2", new Author(2L, "author-2"), LocalDate.of(2022, 3, 4));
 
         when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook1));
         when(bookRepository.findById(2L)).thenReturn(Optional.of(testBook2));
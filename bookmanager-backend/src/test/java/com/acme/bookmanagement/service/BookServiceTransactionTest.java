@@ -0,0 +1,51 @@
+package com.acme.bookmanagement.service;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.acme.bookmanagement.model.Book;
+import com.acme.bookmanagement.repository.AuthorRepository;
+
+/**
+ * Runs createBook against the real database and transaction manager, which
+ * {@link BookServiceTest} replaces with mocks.
+ */
+@SpringBootTest
+class BookServiceTransactionTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Test
+    void testFailedBookInsertRollsBackNewAuthor() {
+        // Longer than the title column, so the book insert fails after the author insert
+        String title = "t".repeat(256);
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> bookService.createBook(title, "Rolled Back Author", LocalDate.of(2021, 2, 3)));
+
+        assertTrue(authorRepository.findByName("Rolled Back Author").isEmpty());
+        assertTrue(authorService.findByPrefix("Rolled Back", 10).isEmpty());
+    }
+
+    @Test
+    void testCreatedBookCommitsNewAuthor() {
+        Book book = bookService.createBook("title-1", "Committed Author", LocalDate.of(2021, 2, 3));
+
+        assertEquals(book.getAuthor().getId(), authorRepository.findByName("Committed Author").orElseThrow().getId());
+        assertEquals(1, authorService.findByPrefix("Committed", 10).size());
+    }
+}